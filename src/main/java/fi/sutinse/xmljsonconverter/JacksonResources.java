@@ -0,0 +1,83 @@
+package fi.sutinse.xmljsonconverter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.xml.stream.XMLInputFactory;
+
+/**
+ * Shared Jackson resources reused across all conversion requests.
+ * Jackson buffers come from a bounded (ArrayBlockingQueue-based) pool instead of
+ * ThreadLocal recycling, so JSON parsing and JSON writing keep reusing buffers
+ * when conversions run on virtual threads.
+ * <p>
+ * XML parsing is only partly covered: Woodstox reads the input stream with its own
+ * buffers, which it recycles through a ThreadLocal, so each XML conversion on a
+ * new virtual thread still allocates fresh Woodstox buffers.
+ */
+@ApplicationScoped
+public class JacksonResources {
+
+    private final ObjectReader jsonTreeReader;
+    private final ObjectReader xmlTreeReader;
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter prettyJsonWriter;
+
+    /**
+     * @param bufferPoolCapacity upper bound of idle buffer recyclers kept between requests,
+     *                           see {@code converter.jackson.buffer-pool-capacity}
+     */
+    @Inject
+    public JacksonResources(
+            @ConfigProperty(name = "converter.jackson.buffer-pool-capacity") int bufferPoolCapacity) {
+        this(JsonRecyclerPools.newBoundedPool(bufferPoolCapacity));
+    }
+
+    JacksonResources(RecyclerPool<BufferRecycler> bufferPool) {
+        JsonFactory jsonFactory = JsonFactory.builder()
+                .recyclerPool(bufferPool)
+                .build();
+
+        // Keep the StAX factory Jackson builds itself (external entities already disabled)
+        XmlFactory xmlFactory = XmlFactory.builder()
+                .recyclerPool(bufferPool)
+                .build();
+        xmlFactory.getXMLInputFactory().setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        xmlFactory.getXMLInputFactory().setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+
+        ObjectMapper jsonMapper = new ObjectMapper(jsonFactory);
+        XmlMapper xmlMapper = new XmlMapper(xmlFactory);
+
+        this.jsonTreeReader = jsonMapper.readerFor(JsonNode.class);
+        this.xmlTreeReader = xmlMapper.readerFor(JsonNode.class);
+        this.jsonWriter = jsonMapper.writer();
+        this.prettyJsonWriter = jsonMapper.writerWithDefaultPrettyPrinter();
+    }
+
+    public ObjectReader jsonTreeReader() {
+        return jsonTreeReader;
+    }
+
+    public ObjectReader xmlTreeReader() {
+        return xmlTreeReader;
+    }
+
+    public ObjectWriter jsonWriter() {
+        return jsonWriter;
+    }
+
+    public ObjectWriter prettyJsonWriter() {
+        return prettyJsonWriter;
+    }
+}
@@ -1,21 +1,19 @@
 package fi.sutinse.xmljsonconverter;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 @ApplicationScoped
 public class XmlJsonService {
 
-    private final XmlMapper xmlMapper = new XmlMapper();
-    private final ObjectMapper jsonMapper = new ObjectMapper();
+    @Inject
+    JacksonResources jackson;
 
     /**
      * Converts XML to JSON and compares with provided JSON.
@@ -70,30 +68,20 @@ public class XmlJsonService {
         try (xmlInputStream) {
             // Use Jackson XML mapper to read XML and convert to JSON
             // This is more reliable than manual token parsing
-            JsonNode xmlNode = xmlMapper.readTree(xmlInputStream);
-            return jsonMapper.writeValueAsString(xmlNode);
+            JsonNode xmlNode = jackson.xmlTreeReader().readTree(xmlInputStream);
+            return jackson.jsonWriter().writeValueAsString(xmlNode);
         }
     }
 
     /**
      * Reads JSON using optimized streaming for better performance.
-     * Uses modern stream operations for memory efficiency.
+     * Parses straight from the stream so only pooled parser buffers are used.
      */
     private String readJsonStreamOptimized(InputStream jsonInputStream) throws Exception {
-        try (jsonInputStream;
-             var reader = new BufferedReader(
-                 new InputStreamReader(jsonInputStream, StandardCharsets.UTF_8))) {
-            
-            // Use stream operations for more efficient processing
-            String jsonContent = reader.lines()
-                    .collect(StringBuilder::new, 
-                            (sb, line) -> sb.append(line).append('\n'),
-                            StringBuilder::append)
-                    .toString();
-            
+        try (jsonInputStream) {
             // Validate that it's proper JSON and normalize formatting
-            JsonNode jsonNode = jsonMapper.readTree(jsonContent);
-            return jsonMapper.writeValueAsString(jsonNode);
+            JsonNode jsonNode = jackson.jsonTreeReader().readTree(jsonInputStream);
+            return jackson.jsonWriter().writeValueAsString(jsonNode);
         }
     }
 
@@ -189,8 +177,8 @@ public class XmlJsonService {
         return Optional.ofNullable(json)
                 .map(j -> {
                     try {
-                        JsonNode jsonNode = jsonMapper.readTree(j);
-                        return jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonNode);
+                        JsonNode jsonNode = jackson.jsonTreeReader().readTree(j);
+                        return jackson.prettyJsonWriter().writeValueAsString(jsonNode);
                     } catch (Exception e) {
                         return j; // Return original if formatting fails
                     }
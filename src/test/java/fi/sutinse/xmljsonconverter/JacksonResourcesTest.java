@@ -0,0 +1,191 @@
+package fi.sutinse.xmljsonconverter;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JacksonResourcesTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    // Roughly 20 KB document with many repeated field names
+    private static final byte[] JSON = IntStream.range(0, 200)
+            .mapToObj(i -> """
+                    {"name":"Employee %d","department":"IT","age":"%d"}""".formatted(i, 20 + i % 40))
+            .collect(Collectors.joining(",", "{\"employees\":{\"employee\":[", "]}}"))
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final int CONVERSIONS = 50;
+
+    private static final byte[] PERSON_XML =
+            "<person><name>John</name><age>30</age></person>".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PERSON_JSON =
+            "{\"name\":\"John\",\"age\":\"30\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final JacksonResources resources = new JacksonResources(128);
+    private final ObjectMapper legacyMapper = new ObjectMapper();
+
+    @Test
+    public void testStreamReadAllocatesLessThanLineCollectingRead() throws Exception {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        var allocations = (com.sun.management.ThreadMXBean) threadBean;
+        Assumptions.assumeTrue(allocations.isThreadAllocatedMemorySupported());
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        // Warm up both paths so class loading and JIT do not skew the measurement
+        for (int i = 0; i < ITERATIONS; i++) {
+            readLineCollecting(new ByteArrayInputStream(JSON));
+            readStream(new ByteArrayInputStream(JSON));
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long start = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            readLineCollecting(new ByteArrayInputStream(JSON));
+        }
+        long lineCollectingBytes = allocations.getThreadAllocatedBytes(threadId) - start;
+
+        start = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            readStream(new ByteArrayInputStream(JSON));
+        }
+        long streamBytes = allocations.getThreadAllocatedBytes(threadId) - start;
+
+        assertTrue(streamBytes < lineCollectingBytes,
+                "stream read allocated %d bytes/request, line-collecting read %d bytes/request"
+                        .formatted(streamBytes / ITERATIONS, lineCollectingBytes / ITERATIONS));
+    }
+
+    @Test
+    public void testBoundedPoolReusesRecyclersAcrossVirtualThreads() throws Exception {
+        var pool = new CountingPool(JsonRecyclerPools.newBoundedPool(4));
+        convertOnFreshVirtualThreads(pool, CONVERSIONS);
+
+        assertTrue(pool.acquisitions.get() >= CONVERSIONS);
+        assertEquals(1, pool.recyclers.size(), "sequential conversions should share one recycler");
+    }
+
+    @Test
+    public void testThreadLocalPoolDoesNotReuseRecyclersAcrossVirtualThreads() throws Exception {
+        var pool = new CountingPool(JsonRecyclerPools.threadLocalPool());
+        convertOnFreshVirtualThreads(pool, CONVERSIONS);
+
+        assertTrue(pool.recyclers.size() >= CONVERSIONS,
+                "every virtual thread gets its own ThreadLocal recycler");
+    }
+
+    @Test
+    public void testBoundedPoolRetainsAtMostCapacityRecyclers() throws Exception {
+        int capacity = 4;
+        var pool = new CountingPool(JsonRecyclerPools.newBoundedPool(capacity));
+        XmlJsonService service = serviceWith(pool);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var results = IntStream.range(0, CONVERSIONS)
+                    .mapToObj(i -> executor.submit(() -> convert(service)))
+                    .toList();
+            for (var result : results) {
+                assertTrue(result.get().contains("MATCH"));
+            }
+        }
+
+        assertTrue(pool.pooledCount() > 0 && pool.pooledCount() <= capacity,
+                "idle recyclers retained: " + pool.pooledCount());
+    }
+
+    private static void convertOnFreshVirtualThreads(CountingPool pool, int conversions) throws Exception {
+        XmlJsonService service = serviceWith(pool);
+        for (int i = 0; i < conversions; i++) {
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                assertTrue(executor.submit(() -> convert(service)).get().contains("MATCH"));
+            }
+        }
+    }
+
+    private static XmlJsonService serviceWith(RecyclerPool<BufferRecycler> pool) {
+        var service = new XmlJsonService();
+        service.jackson = new JacksonResources(pool);
+        return service;
+    }
+
+    private static String convert(XmlJsonService service) {
+        return service.convertXmlToJsonAndCompare(new FileUploadForm(
+                new ByteArrayInputStream(PERSON_XML), new ByteArrayInputStream(PERSON_JSON)));
+    }
+
+    /**
+     * Delegating pool that records every recycler handed out.
+     */
+    private static final class CountingPool implements RecyclerPool<BufferRecycler> {
+
+        private final RecyclerPool<BufferRecycler> delegate;
+        final AtomicInteger acquisitions = new AtomicInteger();
+        final Set<BufferRecycler> recyclers = ConcurrentHashMap.newKeySet();
+
+        CountingPool(RecyclerPool<BufferRecycler> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public BufferRecycler acquirePooled() {
+            BufferRecycler recycler = delegate.acquirePooled();
+            acquisitions.incrementAndGet();
+            recyclers.add(recycler);
+            return recycler;
+        }
+
+        @Override
+        public void releasePooled(BufferRecycler recycler) {
+            delegate.releasePooled(recycler);
+        }
+
+        @Override
+        public int pooledCount() {
+            return delegate.pooledCount();
+        }
+    }
+
+    /**
+     * Mirrors the previous readJsonStreamOptimized implementation.
+     */
+    private String readLineCollecting(InputStream in) throws Exception {
+        try (in;
+             var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String content = reader.lines()
+                    .collect(StringBuilder::new,
+                            (sb, line) -> sb.append(line).append('\n'),
+                            StringBuilder::append)
+                    .toString();
+            JsonNode node = legacyMapper.readTree(content);
+            return legacyMapper.writeValueAsString(node);
+        }
+    }
+
+    private String readStream(InputStream in) throws Exception {
+        try (in) {
+            JsonNode node = resources.jsonTreeReader().readTree(in);
+            return resources.jsonWriter().writeValueAsString(node);
+        }
+    }
+}
@@ -3,8 +3,12 @@ package fi.sutinse.xmljsonconverter;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 
 @QuarkusTest
 public class XmlJsonConverterResourceTest {
@@ -83,4 +87,99 @@ public class XmlJsonConverterResourceTest {
                 .statusCode(200)
                 .body(containsString("XML to JSON Conversion and Comparison Report"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testJsonEndpointRoundTripThroughPooledReaders() {
+        String requestBody = """
+                {
+                  "xmlContent": "<person><name>John</name><age>30</age></person>",
+                  "jsonContent": "{\\"age\\":\\"30\\",\\"name\\":\\"John\\"}"
+                }
+                """;
+
+        // Repeat so later requests run on recycled buffers
+        for (int i = 0; i < 5; i++) {
+            given()
+                    .when()
+                    .contentType("application/json")
+                    .body(requestBody)
+                    .post("/convert/json")
+                    .then()
+                    .statusCode(200)
+                    .body(allOf(containsString("MATCH"), not(containsString("DIFFERENCES FOUND"))));
+        }
+    }
+
+    @Test
+    public void testFilesEndpointWithUtf8JsonWithoutTrailingNewline() {
+        given()
+                .when()
+                .multiPart("xml", "person.xml",
+                        "<person><name>Jääskeläinen</name></person>".getBytes(StandardCharsets.UTF_8))
+                .multiPart("json", "person.json",
+                        "{\"name\":\"Jääskeläinen\"}".getBytes(StandardCharsets.UTF_8))
+                .post("/convert/files")
+                .then()
+                .statusCode(200)
+                .body(allOf(containsString("MATCH"), containsString("Jääskeläinen")));
+    }
+
+    @Test
+    public void testJsonEndpointReportContainsPrettyPrintedPreview() {
+        String requestBody = """
+                {
+                  "xmlContent": "<person><name>John</name><age>30</age></person>",
+                  "jsonContent": "{\\"name\\":\\"John\\",\\"age\\":\\"30\\"}"
+                }
+                """;
+
+        given()
+                .when()
+                .contentType("application/json")
+                .body(requestBody)
+                .post("/convert/json")
+                .then()
+                .statusCode(200)
+                .body(allOf(
+                        containsString("## Converted JSON Preview"),
+                        containsString("{\n  \"name\" : \"John\",\n  \"age\" : \"30\"\n}")));
+    }
+
+    @Test
+    public void testJsonEndpointRejectsExternalEntity() {
+        String requestBody = """
+                {
+                  "xmlContent": "<?xml version=\\"1.0\\"?><!DOCTYPE person [<!ENTITY xxe SYSTEM \\"file:///etc/passwd\\">]><person><name>&xxe;</name></person>",
+                  "jsonContent": "{\\"name\\":\\"John\\"}"
+                }
+                """;
+
+        given()
+                .when()
+                .contentType("application/json")
+                .body(requestBody)
+                .post("/convert/json")
+                .then()
+                .statusCode(200)
+                .body(allOf(containsString("Conversion Failed"), not(containsString("root:"))));
+    }
+
+    @Test
+    public void testJsonEndpointRejectsEntityExpansion() {
+        String requestBody = """
+                {
+                  "xmlContent": "<?xml version=\\"1.0\\"?><!DOCTYPE person [<!ENTITY a \\"aaaaaaaaaa\\"><!ENTITY b \\"&a;&a;&a;&a;&a;&a;&a;&a;&a;&a;\\">]><person><name>&b;</name></person>",
+                  "jsonContent": "{\\"name\\":\\"John\\"}"
+                }
+                """;
+
+        given()
+                .when()
+                .contentType("application/json")
+                .body(requestBody)
+                .post("/convert/json")
+                .then()
+                .statusCode(200)
+                .body(allOf(containsString("Conversion Failed"), not(containsString("aaaaaaaaaaaaaaaaaaaa"))));
+    }
+}